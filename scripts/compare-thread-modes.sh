@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+# Compares the default platform-thread mode with the virtual-threads profile by running
+# scripts/LoadTest.java against the existing endpoints at increasing concurrency levels.
+# Both modes use the same admission settings; a third, separately labelled run keeps virtual
+# threads and raises only the queue sizes (LARGE_QUEUE_ARGS), with the same queue timeouts.
+# Requires JDK 21 on the PATH; no other load tool is needed.
+#
+# Usage: ./scripts/compare-thread-modes.sh [requests] [concurrency levels...]
+#   ./scripts/compare-thread-modes.sh 20000 50 200 1000
+
+set -euo pipefail
+
+REQUESTS=${1:-10000}
+shift || true
+if [ $# -gt 0 ]; then CONCURRENCY=("$@"); else CONCURRENCY=(50 200 1000); fi
+PORT=${PORT:-8080}
+STARTUP_TIMEOUT=${STARTUP_TIMEOUT:-60}
+BASE_URL="http://localhost:${PORT}"
+LARGE_QUEUE_ARGS=${LARGE_QUEUE_ARGS:---admission.cheap.max-queue=2000 --admission.expensive.max-queue=500}
+ENDPOINTS=("/api/movies/1" "/api/movies/years" "/api/movies?year=1990" "/api/producers/intervals")
+
+cd "$(dirname "$0")/.."
+${MVN:-sh ./mvnw} -q -DskipTests package
+JAR=$(ls target/goldenraspberry-*.jar | grep -v original | head -n 1)
+javac -d target/loadtest scripts/LoadTest.java
+
+load() {
+    java -cp target/loadtest LoadTest "$1" "$2" "$3"
+}
+
+wait_for_startup() {
+    local mode=$1
+    local waited=0
+
+    until curl -sf "${BASE_URL}/api/movies/years" >/dev/null; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "Application exited during startup (${mode}):" >&2
+            cat "target/${mode}.log" >&2
+            exit 1
+        fi
+        if [ "$waited" -ge "$STARTUP_TIMEOUT" ]; then
+            echo "Application did not start within ${STARTUP_TIMEOUT}s (${mode}):" >&2
+            cat "target/${mode}.log" >&2
+            exit 1
+        fi
+        sleep 1
+        waited=$((waited + 1))
+    done
+}
+
+platform_threads() {
+    jcmd "$APP_PID" Thread.print 2>/dev/null | grep -c '^"' || true
+}
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+    shift 2
+
+    java -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false \
+        ${profiles:+--spring.profiles.active=$profiles} "$@" >"target/${mode}.log" 2>&1 &
+    APP_PID=$!
+    wait_for_startup "$mode"
+
+    for endpoint in "${ENDPOINTS[@]}"; do
+        load "${BASE_URL}${endpoint}" 2000 50 >/dev/null
+    done
+
+    for endpoint in "${ENDPOINTS[@]}"; do
+        for c in "${CONCURRENCY[@]}"; do
+            printf "%-16s %-26s %6s " "$mode" "$endpoint" "$c"
+            load "${BASE_URL}${endpoint}" "$REQUESTS" "$c"
+        done
+    done
+
+    echo "platform threads: $(platform_threads)"
+    curl -s "${BASE_URL}/api/admission/stats"; echo
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=""
+}
+
+APP_PID=""
+trap '[ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null' EXIT
+
+printf "%-16s %-26s %6s %10s %8s %8s %8s %8s\n" mode endpoint conc req/s p50ms p99ms non2xx errors
+run_mode platform ""
+run_mode virtual-threads virtual-threads
+# shellcheck disable=SC2086
+run_mode vt-large-queues virtual-threads $LARGE_QUEUE_ARGS
@@ -0,0 +1,19 @@
+package com.outsera.goldenraspberry.config;
+
+import com.outsera.goldenraspberry.service.AdmissionPool;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated handler method inside an admission pool. The permit is held for the whole
+ * request, including response serialization; see {@link AdmissionInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+
+    AdmissionPool value();
+}
@@ -0,0 +1,47 @@
+package com.outsera.goldenraspberry.config;
+
+import com.outsera.goldenraspberry.service.AdmissionControlService;
+import com.outsera.goldenraspberry.service.AdmissionPool;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Acquires the handler's {@link Admission} pool before it runs and releases it only after the
+ * response has been written, so the permit bounds both the database work and the serialization.
+ */
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String POOL_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".pool";
+
+    private final AdmissionControlService admissionControlService;
+
+    @Autowired
+    public AdmissionInterceptor(AdmissionControlService admissionControlService) {
+        this.admissionControlService = admissionControlService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Admission admission = handlerMethod.getMethodAnnotation(Admission.class);
+            if (admission != null) {
+                admissionControlService.acquire(admission.value());
+                request.setAttribute(POOL_ATTRIBUTE, admission.value());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(POOL_ATTRIBUTE) instanceof AdmissionPool pool) {
+            request.removeAttribute(POOL_ATTRIBUTE);
+            admissionControlService.release(pool);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.outsera.goldenraspberry.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private Pool cheap = new Pool(6, 164, Duration.ofMillis(100));
+
+    private Pool expensive = new Pool(4, 16, Duration.ofSeconds(2));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        private int maxConcurrent;
+
+        private int maxQueue;
+
+        private Duration queueTimeout;
+    }
+}
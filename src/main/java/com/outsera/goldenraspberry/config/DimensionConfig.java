@@ -0,0 +1,24 @@
+package com.outsera.goldenraspberry.config;
+
+import com.outsera.goldenraspberry.entity.MovieEntity;
+import com.outsera.goldenraspberry.service.DelimitedDimensionExtractor;
+import com.outsera.goldenraspberry.service.DimensionExtractor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DimensionConfig {
+
+    public static final String PRODUCERS = "producers";
+    public static final String STUDIOS = "studios";
+
+    @Bean
+    public DimensionExtractor producersDimension() {
+        return new DelimitedDimensionExtractor(PRODUCERS, MovieEntity::getProducers);
+    }
+
+    @Bean
+    public DimensionExtractor studiosDimension() {
+        return new DelimitedDimensionExtractor(STUDIOS, MovieEntity::getStudios);
+    }
+}
@@ -0,0 +1,28 @@
+package com.outsera.goldenraspberry.controller;
+
+import com.outsera.goldenraspberry.dto.BulkheadStatsDto;
+import com.outsera.goldenraspberry.service.AdmissionControlService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admission")
+public class AdmissionController {
+
+    private final AdmissionControlService admissionControlService;
+
+    @Autowired
+    public AdmissionController(AdmissionControlService admissionControlService) {
+        this.admissionControlService = admissionControlService;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<BulkheadStatsDto>> getStats() {
+        return ResponseEntity.ok(admissionControlService.getStats());
+    }
+}
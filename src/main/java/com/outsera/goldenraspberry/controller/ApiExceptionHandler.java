@@ -0,0 +1,41 @@
+package com.outsera.goldenraspberry.controller;
+
+import com.outsera.goldenraspberry.exception.AdmissionRejectedException;
+import com.outsera.goldenraspberry.exception.UnknownDimensionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Duration;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleAdmissionRejected(AdmissionRejectedException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(e.getStatus(), e.getMessage());
+        problem.setProperty("pool", e.getPool());
+
+        return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e.getRetryAfter()))
+                .body(problem);
+    }
+
+    private String retryAfterSeconds(Duration retryAfter) {
+        long seconds = retryAfter.toSeconds() + (retryAfter.toNanosPart() > 0 ? 1 : 0);
+        return String.valueOf(Math.max(MIN_RETRY_AFTER_SECONDS, seconds));
+    }
+
+    @ExceptionHandler(UnknownDimensionException.class)
+    public ResponseEntity<ProblemDetail> handleUnknownDimension(UnknownDimensionException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+        problem.setProperty("dimension", e.getDimension());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
+    }
+}
@@ -0,0 +1,45 @@
+package com.outsera.goldenraspberry.controller;
+
+import com.outsera.goldenraspberry.config.Admission;
+import com.outsera.goldenraspberry.dto.DimensionIntervalResponseDto;
+import com.outsera.goldenraspberry.service.AdmissionPool;
+import com.outsera.goldenraspberry.service.IntervalEngineService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api")
+public class IntervalController {
+
+    private final IntervalEngineService intervalEngineService;
+
+    @Autowired
+    public IntervalController(IntervalEngineService intervalEngineService) {
+        this.intervalEngineService = intervalEngineService;
+    }
+
+    @GetMapping("/intervals")
+    @Admission(AdmissionPool.EXPENSIVE)
+    public ResponseEntity<Map<String, DimensionIntervalResponseDto>> getIntervals(
+            @RequestParam(required = false) List<String> dimensions) {
+        List<String> names = dimensions == null ? List.of() : dimensions.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        Collection<String> requested = names.isEmpty() ? intervalEngineService.getDimensions() : names;
+        Map<String, DimensionIntervalResponseDto> response = intervalEngineService.getIntervals(requested);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{dimension}/intervals")
+    @Admission(AdmissionPool.EXPENSIVE)
+    public ResponseEntity<DimensionIntervalResponseDto> getDimensionIntervals(@PathVariable String dimension) {
+        DimensionIntervalResponseDto response = intervalEngineService.getIntervals(dimension);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,8 @@
 package com.outsera.goldenraspberry.controller;
 
+import com.outsera.goldenraspberry.config.Admission;
 import com.outsera.goldenraspberry.entity.MovieEntity;
+import com.outsera.goldenraspberry.service.AdmissionPool;
 import com.outsera.goldenraspberry.service.MovieService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +22,16 @@ public class MovieController {
     }
 
     @GetMapping
+    @Admission(AdmissionPool.EXPENSIVE)
     public ResponseEntity<List<MovieEntity>> getAllMovies(
+            @RequestParam(required = false) Boolean winner) {
+        List<MovieEntity> movies = movieService.getMovies(null, winner);
+        return ResponseEntity.ok(movies);
+    }
+
+    @GetMapping(params = "year")
+    @Admission(AdmissionPool.CHEAP)
+    public ResponseEntity<List<MovieEntity>> getMoviesByYear(
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Boolean winner) {
         List<MovieEntity> movies = movieService.getMovies(year, winner);
@@ -28,12 +39,14 @@ public class MovieController {
     }
 
     @GetMapping("/{id}")
+    @Admission(AdmissionPool.CHEAP)
     public ResponseEntity<MovieEntity> getMovieById(@PathVariable Long id) {
         MovieEntity movie = movieService.getMovieById(id);
         return movie != null ? ResponseEntity.ok(movie) : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/years")
+    @Admission(AdmissionPool.CHEAP)
     public ResponseEntity<List<Integer>> getYears() {
         List<Integer> years = movieService.getYears();
         return ResponseEntity.ok(years);
@@ -1,6 +1,8 @@
 package com.outsera.goldenraspberry.controller;
 
+import com.outsera.goldenraspberry.config.Admission;
 import com.outsera.goldenraspberry.dto.IntervalResponseDto;
+import com.outsera.goldenraspberry.service.AdmissionPool;
 import com.outsera.goldenraspberry.service.MovieService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,7 @@ public class ProducerController {
     }
 
     @GetMapping("/intervals")
+    @Admission(AdmissionPool.EXPENSIVE)
     public ResponseEntity<IntervalResponseDto> getProducerIntervals() {
         IntervalResponseDto response = movieService.getProducerIntervals();
         return ResponseEntity.ok(response);
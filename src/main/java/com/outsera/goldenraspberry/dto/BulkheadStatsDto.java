@@ -0,0 +1,33 @@
+package com.outsera.goldenraspberry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkheadStatsDto {
+
+    private String pool;
+
+    private int maxConcurrent;
+
+    private int maxQueue;
+
+    private int inFlight;
+
+    private int queued;
+
+    private long accepted;
+
+    private long rejectedQueueFull;
+
+    private long rejectedTimeout;
+
+    private double averageQueueMillis;
+
+    private double maxQueueMillis;
+}
@@ -0,0 +1,21 @@
+package com.outsera.goldenraspberry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DimensionIntervalDto {
+
+    private String name;
+
+    private int interval;
+
+    private int previousWin;
+
+    private int followingWin;
+}
@@ -0,0 +1,21 @@
+package com.outsera.goldenraspberry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DimensionIntervalResponseDto {
+
+    private String dimension;
+
+    private List<DimensionIntervalDto> min;
+
+    private List<DimensionIntervalDto> max;
+}
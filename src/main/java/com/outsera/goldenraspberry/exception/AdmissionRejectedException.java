@@ -0,0 +1,23 @@
+package com.outsera.goldenraspberry.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final String pool;
+
+    private final HttpStatus status;
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String pool, HttpStatus status, Duration retryAfter, String message) {
+        super(message);
+        this.pool = pool;
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+}
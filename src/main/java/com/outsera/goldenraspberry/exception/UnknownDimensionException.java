@@ -0,0 +1,14 @@
+package com.outsera.goldenraspberry.exception;
+
+import lombok.Getter;
+
+@Getter
+public class UnknownDimensionException extends RuntimeException {
+
+    private final String dimension;
+
+    public UnknownDimensionException(String dimension) {
+        super("Unknown dimension: " + dimension);
+        this.dimension = dimension;
+    }
+}
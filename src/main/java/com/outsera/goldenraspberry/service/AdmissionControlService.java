@@ -0,0 +1,68 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.config.AdmissionProperties;
+import com.outsera.goldenraspberry.dto.BulkheadStatsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Service
+public class AdmissionControlService {
+
+    private final Map<AdmissionPool, Bulkhead> bulkheads = new EnumMap<>(AdmissionPool.class);
+
+    @Autowired
+    public AdmissionControlService(
+            AdmissionProperties properties,
+            @Value("${server.tomcat.threads.max:200}") int workerThreads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (!virtualThreads) {
+            checkWorkerBudget(properties, workerThreads);
+        }
+        bulkheads.put(AdmissionPool.CHEAP, createBulkhead("cheap", properties.getCheap()));
+        bulkheads.put(AdmissionPool.EXPENSIVE, createBulkhead("expensive", properties.getExpensive()));
+    }
+
+    /**
+     * Queued callers wait on the Tomcat worker thread, so both pools together must leave workers
+     * free to answer with 429; otherwise overload backs up in Tomcat's accept queue instead.
+     */
+    private void checkWorkerBudget(AdmissionProperties properties, int workerThreads) {
+        int held = threadsHeld(properties.getCheap()) + threadsHeld(properties.getExpensive());
+        if (held >= workerThreads) {
+            throw new IllegalStateException("Admission pools can hold " + held
+                    + " worker threads but server.tomcat.threads.max is " + workerThreads);
+        }
+    }
+
+    private int threadsHeld(AdmissionProperties.Pool pool) {
+        return pool.getMaxConcurrent() + pool.getMaxQueue();
+    }
+
+    private Bulkhead createBulkhead(String name, AdmissionProperties.Pool pool) {
+        return new Bulkhead(name, pool.getMaxConcurrent(), pool.getMaxQueue(), pool.getQueueTimeout());
+    }
+
+    public <T> T execute(AdmissionPool pool, Supplier<T> action) {
+        return bulkheads.get(pool).execute(action);
+    }
+
+    public void acquire(AdmissionPool pool) {
+        bulkheads.get(pool).acquire();
+    }
+
+    public void release(AdmissionPool pool) {
+        bulkheads.get(pool).release();
+    }
+
+    public List<BulkheadStatsDto> getStats() {
+        return bulkheads.values().stream()
+                .map(Bulkhead::getStats)
+                .toList();
+    }
+}
@@ -0,0 +1,6 @@
+package com.outsera.goldenraspberry.service;
+
+public enum AdmissionPool {
+    CHEAP,
+    EXPENSIVE
+}
@@ -0,0 +1,130 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.dto.BulkheadStatsDto;
+import com.outsera.goldenraspberry.exception.AdmissionRejectedException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many callers may run an operation at once. Callers beyond the limit wait in a
+ * bounded queue for at most the configured timeout; a full queue is rejected immediately with
+ * 429 and an expired wait with 503, so overload never piles up on the servlet worker pool.
+ */
+public class Bulkhead {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Duration queueTimeout;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+    private final LongAdder queueTimeSamples = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, Duration queueTimeout) {
+        if (maxConcurrent < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("Invalid limits for pool " + name);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.queueTimeout = queueTimeout;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Takes a permit, waiting in the bounded queue if needed. Every successful call must be paired
+     * with {@link #release()}.
+     */
+    public void acquire() {
+        if (tryAcquire(0)) {
+            accepted.increment();
+            recordQueueTime(0);
+            return;
+        }
+
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new AdmissionRejectedException(name, HttpStatus.TOO_MANY_REQUESTS, queueTimeout,
+                    "Too many pending requests for the " + name + " pool");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = tryAcquire(queueTimeoutNanos);
+        } finally {
+            queued.decrementAndGet();
+        }
+
+        if (!acquired) {
+            rejectedTimeout.increment();
+            throw new AdmissionRejectedException(name, HttpStatus.SERVICE_UNAVAILABLE, queueTimeout,
+                    "Timed out waiting for the " + name + " pool");
+        }
+        accepted.increment();
+        recordQueueTime(System.nanoTime() - start);
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordQueueTime(long nanos) {
+        queueTimeSamples.increment();
+        totalQueueNanos.add(nanos);
+        maxQueueNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public BulkheadStatsDto getStats() {
+        long samples = queueTimeSamples.sum();
+        double averageQueueMillis = samples == 0 ? 0 : totalQueueNanos.sum() / NANOS_PER_MILLI / samples;
+
+        return new BulkheadStatsDto(
+                name,
+                maxConcurrent,
+                maxQueue,
+                maxConcurrent - permits.availablePermits(),
+                queued.get(),
+                accepted.sum(),
+                rejectedQueueFull.sum(),
+                rejectedTimeout.sum(),
+                averageQueueMillis,
+                maxQueueNanos.get() / NANOS_PER_MILLI);
+    }
+}
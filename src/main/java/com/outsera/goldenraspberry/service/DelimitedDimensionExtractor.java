@@ -0,0 +1,46 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.entity.MovieEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a movie column holding a list of names separated by commas or "and".
+ */
+public class DelimitedDimensionExtractor implements DimensionExtractor {
+
+    private static final Pattern SPLIT_PATTERN = Pattern.compile(",|\\sand\\s");
+
+    private final String name;
+    private final Function<MovieEntity, String> column;
+
+    public DelimitedDimensionExtractor(String name, Function<MovieEntity, String> column) {
+        this.name = name;
+        this.column = column;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<String> extract(MovieEntity movie) {
+        String value = column.apply(movie);
+        if (value == null) {
+            return List.of();
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String key : SPLIT_PATTERN.split(value)) {
+            key = key.trim();
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,16 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.entity.MovieEntity;
+
+import java.util.List;
+
+/**
+ * Extracts the keys of one analytics dimension (e.g. producers, studios) from a movie.
+ * Each extractor bean is exposed by the interval engine as {@code /api/{name}/intervals}.
+ */
+public interface DimensionExtractor {
+
+    String getName();
+
+    List<String> extract(MovieEntity movie);
+}
@@ -0,0 +1,98 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.dto.DimensionIntervalDto;
+import com.outsera.goldenraspberry.dto.DimensionIntervalResponseDto;
+import com.outsera.goldenraspberry.entity.MovieEntity;
+import com.outsera.goldenraspberry.exception.UnknownDimensionException;
+import com.outsera.goldenraspberry.repository.MovieRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Computes min/max gaps between consecutive wins for any registered {@link DimensionExtractor}.
+ * All requested dimensions are collected in a single pass over the winners; each key's years are
+ * sorted before gaps are computed, so the result does not depend on the order winners arrive in.
+ */
+@Service
+public class IntervalEngineService {
+
+    private final MovieRepository movieRepository;
+    private final Map<String, DimensionExtractor> extractors = new LinkedHashMap<>();
+
+    @Autowired
+    public IntervalEngineService(MovieRepository movieRepository, List<DimensionExtractor> extractors) {
+        this.movieRepository = movieRepository;
+        for (DimensionExtractor extractor : extractors) {
+            if (this.extractors.putIfAbsent(extractor.getName(), extractor) != null) {
+                throw new IllegalStateException("Duplicate dimension: " + extractor.getName());
+            }
+        }
+    }
+
+    public Set<String> getDimensions() {
+        return Collections.unmodifiableSet(extractors.keySet());
+    }
+
+    public DimensionIntervalResponseDto getIntervals(String dimension) {
+        return getIntervals(List.of(dimension)).get(dimension);
+    }
+
+    public Map<String, DimensionIntervalResponseDto> getIntervals(Collection<String> dimensions) {
+        List<DimensionState> states = new ArrayList<>();
+        for (String dimension : new LinkedHashSet<>(dimensions)) {
+            DimensionExtractor extractor = extractors.get(dimension);
+            if (extractor == null) {
+                throw new UnknownDimensionException(dimension);
+            }
+            states.add(new DimensionState(extractor));
+        }
+
+        for (MovieEntity movie : movieRepository.findWinners()) {
+            for (DimensionState state : states) {
+                state.processMovie(movie);
+            }
+        }
+
+        Map<String, DimensionIntervalResponseDto> response = new LinkedHashMap<>();
+        for (DimensionState state : states) {
+            response.put(state.extractor.getName(), state.buildIntervalResponse());
+        }
+        return response;
+    }
+
+    private static class DimensionState {
+
+        private final DimensionExtractor extractor;
+        private final Map<String, List<Integer>> keyYears = new LinkedHashMap<>();
+
+        private DimensionState(DimensionExtractor extractor) {
+            this.extractor = extractor;
+        }
+
+        private void processMovie(MovieEntity movie) {
+            for (String key : extractor.extract(movie)) {
+                keyYears.computeIfAbsent(key, k -> new ArrayList<>()).add(movie.getYear());
+            }
+        }
+
+        private DimensionIntervalResponseDto buildIntervalResponse() {
+            IntervalTrackerService tracker = new IntervalTrackerService();
+            keyYears.forEach((key, years) -> trackIntervals(key, years, tracker));
+
+            return tracker.hasIntervals()
+                    ? new DimensionIntervalResponseDto(extractor.getName(), tracker.getMinIntervals(), tracker.getMaxIntervals())
+                    : new DimensionIntervalResponseDto(extractor.getName(), List.of(), List.of());
+        }
+
+        private void trackIntervals(String key, List<Integer> years, IntervalTrackerService tracker) {
+            Collections.sort(years);
+            for (int i = 1; i < years.size(); i++) {
+                int previousYear = years.get(i - 1);
+                int followingYear = years.get(i);
+                tracker.updateMinMax(new DimensionIntervalDto(key, followingYear - previousYear, previousYear, followingYear));
+            }
+        }
+    }
+}
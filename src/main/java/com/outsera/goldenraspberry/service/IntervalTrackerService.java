@@ -1,6 +1,6 @@
 package com.outsera.goldenraspberry.service;
 
-import com.outsera.goldenraspberry.dto.ProducerIntervalDto;
+import com.outsera.goldenraspberry.dto.DimensionIntervalDto;
 import lombok.Getter;
 
 import java.util.ArrayList;
@@ -10,10 +10,10 @@ import java.util.List;
 class IntervalTrackerService {
     private int minInterval = Integer.MAX_VALUE;
     private int maxInterval = Integer.MIN_VALUE;
-    private final List<ProducerIntervalDto> minIntervals = new ArrayList<>();
-    private final List<ProducerIntervalDto> maxIntervals = new ArrayList<>();
+    private final List<DimensionIntervalDto> minIntervals = new ArrayList<>();
+    private final List<DimensionIntervalDto> maxIntervals = new ArrayList<>();
 
-    public void updateMinMax(ProducerIntervalDto intervalDto) {
+    public void updateMinMax(DimensionIntervalDto intervalDto) {
         int interval = intervalDto.getInterval();
 
         if (interval < minInterval) {
@@ -5,6 +5,9 @@ import com.opencsv.CSVParserBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
+import com.outsera.goldenraspberry.config.DimensionConfig;
+import com.outsera.goldenraspberry.dto.DimensionIntervalDto;
+import com.outsera.goldenraspberry.dto.DimensionIntervalResponseDto;
 import com.outsera.goldenraspberry.dto.IntervalResponseDto;
 import com.outsera.goldenraspberry.dto.ProducerIntervalDto;
 import com.outsera.goldenraspberry.entity.MovieEntity;
@@ -18,20 +21,20 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class MovieService {
 
-    private static final Pattern PRODUCER_SPLIT_PATTERN = Pattern.compile(",|\\sand\\s");
     private static final int MIN_RECORD_LENGTH = 4;
 
     private final MovieRepository movieRepository;
+    private final IntervalEngineService intervalEngineService;
 
     @Autowired
-    public MovieService(MovieRepository movieRepository) {
+    public MovieService(MovieRepository movieRepository, IntervalEngineService intervalEngineService) {
         this.movieRepository = movieRepository;
+        this.intervalEngineService = intervalEngineService;
     }
 
     @PostConstruct
@@ -111,70 +114,13 @@ public class MovieService {
     }
 
     public IntervalResponseDto getProducerIntervals() {
-        List<MovieEntity> winners = movieRepository.findWinners();
-
-        if (winners.isEmpty()) {
-            return new IntervalResponseDto(List.of(), List.of());
-        }
-
-        IntervalTrackerService tracker = new IntervalTrackerService();
-        Map<String, List<Integer>> producerYears = new HashMap<>();
-
-        for (MovieEntity movie : winners) {
-            processMovieProducers(movie, producerYears, tracker);
-        }
-
-        return buildIntervalResponse(tracker);
-    }
-
-    private void processMovieProducers(
-            MovieEntity movie,
-            Map<String, List<Integer>> producerYears,
-            IntervalTrackerService tracker) {
-
-        String[] producers = PRODUCER_SPLIT_PATTERN.split(movie.getProducers());
-
-        for (String producer : producers) {
-            producer = producer.trim();
-            if (producer.isEmpty()) continue;
-
-            processProducer(producer, movie.getYear(), producerYears, tracker);
-        }
-    }
-
-    private void processProducer(
-            String producer,
-            int year,
-            Map<String, List<Integer>> producerYears,
-            IntervalTrackerService tracker) {
-
-        List<Integer> years = producerYears.computeIfAbsent(producer, k -> new ArrayList<>());
-        int insertPos = insertYearSorted(years, year);
-
-        if (years.size() > 1 && insertPos > 0) {
-            ProducerIntervalDto intervalDto = createIntervalDto(producer, years, insertPos, year);
-            tracker.updateMinMax(intervalDto);
-        }
-    }
-
-    private int insertYearSorted(List<Integer> years, int year) {
-        int insertPos = Collections.binarySearch(years, year);
-        if (insertPos < 0) {
-            insertPos = -(insertPos + 1);
-        }
-        years.add(insertPos, year);
-        return insertPos;
-    }
-
-    private ProducerIntervalDto createIntervalDto(String producer, List<Integer> years, int insertPos, int currentYear) {
-        int previousYear = years.get(insertPos - 1);
-        int interval = currentYear - previousYear;
-        return new ProducerIntervalDto(producer, interval, previousYear, currentYear);
+        DimensionIntervalResponseDto intervals = intervalEngineService.getIntervals(DimensionConfig.PRODUCERS);
+        return new IntervalResponseDto(toProducerIntervals(intervals.getMin()), toProducerIntervals(intervals.getMax()));
     }
 
-    private IntervalResponseDto buildIntervalResponse(IntervalTrackerService tracker) {
-        return tracker.hasIntervals()
-                ? new IntervalResponseDto(tracker.getMinIntervals(), tracker.getMaxIntervals())
-                : new IntervalResponseDto(List.of(), List.of());
+    private List<ProducerIntervalDto> toProducerIntervals(List<DimensionIntervalDto> intervals) {
+        return intervals.stream()
+                .map(i -> new ProducerIntervalDto(i.getName(), i.getInterval(), i.getPreviousWin(), i.getFollowingWin()))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.outsera.goldenraspberry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(classes = GoldenraspberryApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:admissionconnectionsdb",
+		"admission.cheap.max-concurrent=1",
+		"admission.cheap.max-queue=50",
+		"admission.cheap.queue-timeout=10s",
+		"admission.expensive.max-concurrent=1",
+		"admission.expensive.max-queue=50",
+		"admission.expensive.queue-timeout=10s"
+})
+@AutoConfigureMockMvc
+@Import(AdmissionConnectionBoundIntegrationTest.ConnectionCountingConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Admission Connection Bound Integration Tests")
+class AdmissionConnectionBoundIntegrationTest {
+
+	private static final int CALLERS = 40;
+	private static final List<String> ENDPOINTS = List.of(
+			"/api/movies/1", "/api/movies/years", "/api/movies?year=1990", "/api/movies",
+			"/api/producers/intervals", "/api/intervals");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ConnectionCounter connectionCounter;
+
+	@BeforeEach
+	void setUp() {
+		connectionCounter.reset();
+	}
+
+	@Test
+	@DisplayName("Open connections should never exceed the sum of the pools' max-concurrent")
+	void openConnectionsShouldStayWithinAdmissionLimits() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> statuses = new ArrayList<>();
+		try {
+			for (int i = 0; i < CALLERS; i++) {
+				String endpoint = ENDPOINTS.get(i % ENDPOINTS.size());
+				statuses.add(executor.submit(() -> {
+					start.await();
+					return mockMvc.perform(get(endpoint)).andReturn().getResponse().getStatus();
+				}));
+			}
+			start.countDown();
+
+			for (Future<Integer> status : statuses) {
+				assertThat(status.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(connectionCounter.getMaxOpen())
+				.as("One cheap and one expensive permit allow at most two connections at a time")
+				.isPositive()
+				.isLessThanOrEqualTo(2);
+	}
+
+	@TestConfiguration
+	static class ConnectionCountingConfiguration {
+
+		@Bean
+		ConnectionCounter connectionCounter() {
+			return new ConnectionCounter();
+		}
+
+		@Bean
+		static BeanPostProcessor countingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Tracks how many connections are checked out at once. Shared statically because the
+	 * post-processor runs before the counter bean can be injected into it.
+	 */
+	static class ConnectionCounter {
+
+		private static final AtomicInteger OPEN = new AtomicInteger();
+		private static final AtomicInteger MAX_OPEN = new AtomicInteger();
+
+		static void opened() {
+			MAX_OPEN.accumulateAndGet(OPEN.incrementAndGet(), Math::max);
+		}
+
+		static void closed() {
+			OPEN.decrementAndGet();
+		}
+
+		int getMaxOpen() {
+			return MAX_OPEN.get();
+		}
+
+		void reset() {
+			MAX_OPEN.set(OPEN.get());
+		}
+	}
+
+	static class CountingDataSource extends DelegatingDataSource {
+
+		CountingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return track(super.getConnection());
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return track(super.getConnection(username, password));
+		}
+
+		private Connection track(Connection connection) {
+			ConnectionCounter.opened();
+			AtomicBoolean closed = new AtomicBoolean();
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+					new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+						if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+							ConnectionCounter.closed();
+						}
+						try {
+							return method.invoke(connection, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					});
+		}
+	}
+}
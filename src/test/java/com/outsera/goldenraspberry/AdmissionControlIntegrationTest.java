@@ -0,0 +1,105 @@
+package com.outsera.goldenraspberry;
+
+import com.outsera.goldenraspberry.service.AdmissionControlService;
+import com.outsera.goldenraspberry.service.AdmissionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = GoldenraspberryApplication.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:admissiondb",
+		"admission.cheap.max-concurrent=1",
+		"admission.cheap.max-queue=0",
+		"admission.cheap.queue-timeout=100ms",
+		"admission.expensive.max-concurrent=1",
+		"admission.expensive.max-queue=1",
+		"admission.expensive.queue-timeout=1500ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Admission Control Integration Tests")
+class AdmissionControlIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AdmissionControlService admissionControlService;
+
+	private final BlockingCaller blocker = new BlockingCaller();
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		blocker.close();
+	}
+
+	@Nested
+	@DisplayName("Rejection Tests")
+	class RejectionTests {
+
+		@Test
+		@DisplayName("Should return 429 with Retry-After when the cheap queue is full")
+		void shouldReturnTooManyRequestsWhenQueueFull() throws Exception {
+			occupy(AdmissionPool.CHEAP);
+
+			mockMvc.perform(get("/api/movies/years"))
+					.andExpect(status().isTooManyRequests())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+					.andExpect(jsonPath("$.status").value(429))
+					.andExpect(jsonPath("$.pool").value("cheap"));
+		}
+
+		@Test
+		@DisplayName("Should return 503 with Retry-After when the expensive queue wait times out")
+		void shouldReturnServiceUnavailableOnTimeout() throws Exception {
+			occupy(AdmissionPool.EXPENSIVE);
+
+			mockMvc.perform(get("/api/producers/intervals"))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+					.andExpect(jsonPath("$.status").value(503))
+					.andExpect(jsonPath("$.pool").value("expensive"));
+		}
+
+		@Test
+		@DisplayName("Cheap lookups should still be served while the expensive pool is saturated")
+		void cheapLookupsShouldNotQueueBehindExpensivePool() throws Exception {
+			occupy(AdmissionPool.EXPENSIVE);
+
+			mockMvc.perform(get("/api/movies/years"))
+					.andExpect(status().isOk());
+		}
+	}
+
+	@Nested
+	@DisplayName("Stats Tests")
+	class StatsTests {
+
+		@Test
+		@DisplayName("Should expose stats for both pools")
+		void shouldExposeStatsForBothPools() throws Exception {
+			mockMvc.perform(get("/api/admission/stats"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.length()").value(2))
+					.andExpect(jsonPath("$[*].pool", containsInAnyOrder("cheap", "expensive")))
+					.andExpect(jsonPath("$[0].maxConcurrent").value(1))
+					.andExpect(jsonPath("$[0].rejectedQueueFull").exists())
+					.andExpect(jsonPath("$[0].averageQueueMillis").exists());
+		}
+	}
+
+	private void occupy(AdmissionPool pool) throws InterruptedException {
+		blocker.occupy(action -> admissionControlService.execute(pool, action));
+	}
+}
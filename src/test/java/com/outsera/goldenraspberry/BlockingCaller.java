@@ -0,0 +1,60 @@
+package com.outsera.goldenraspberry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test fixture that holds admission permits from background threads until closed.
+ * Usage: {@code blocker.occupy(action -> bulkhead.execute(action))}.
+ */
+public class BlockingCaller implements AutoCloseable {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	/**
+	 * Runs a blocking action through {@code runner} and returns once the action has started,
+	 * i.e. once the runner has admitted it.
+	 */
+	public void occupy(Consumer<Supplier<Object>> runner) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		executor.submit(() -> runner.accept(() -> {
+			started.countDown();
+			awaitRelease();
+			return null;
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	/**
+	 * Releases the action after {@code delay}, from a background thread.
+	 */
+	public void releaseAfter(long delay, TimeUnit unit) {
+		executor.submit(() -> {
+			unit.sleep(delay);
+			release.countDown();
+			return null;
+		});
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		release.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private void awaitRelease() {
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
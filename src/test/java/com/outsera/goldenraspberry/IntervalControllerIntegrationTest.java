@@ -0,0 +1,144 @@
+package com.outsera.goldenraspberry;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outsera.goldenraspberry.dto.DimensionIntervalDto;
+import com.outsera.goldenraspberry.dto.DimensionIntervalResponseDto;
+import com.outsera.goldenraspberry.dto.IntervalResponseDto;
+import com.outsera.goldenraspberry.dto.ProducerIntervalDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = GoldenraspberryApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Interval Controller Integration Tests")
+class IntervalControllerIntegrationTest {
+
+	private static final String STUDIO_INTERVALS_ENDPOINT = "/api/studios/intervals";
+	private static final String INTERVALS_ENDPOINT = "/api/intervals";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Nested
+	@DisplayName("Studio Interval Tests")
+	class StudioIntervalTests {
+
+		@Test
+		@DisplayName("Should have 1-year minimum intervals for studios")
+		void shouldHaveOneYearMinimumIntervals() throws Exception {
+			DimensionIntervalResponseDto response = readResponse(STUDIO_INTERVALS_ENDPOINT, new TypeReference<>() {});
+
+			assertThat(response.getDimension()).isEqualTo("studios");
+			assertThat(response.getMin())
+					.extracting(DimensionIntervalDto::getName, DimensionIntervalDto::getInterval,
+							DimensionIntervalDto::getPreviousWin, DimensionIntervalDto::getFollowingWin)
+					.containsExactlyInAnyOrder(
+							tuple("Warner Bros.", 1, 1999, 2000),
+							tuple("Paramount Pictures", 1, 2008, 2009),
+							tuple("Paramount Pictures", 1, 2009, 2010),
+							tuple("Columbia Pictures", 1, 2017, 2018));
+		}
+
+		@Test
+		@DisplayName("Should have Paramount Pictures with 15-year maximum interval")
+		void shouldHaveParamountWithFifteenYearInterval() throws Exception {
+			DimensionIntervalResponseDto response = readResponse(STUDIO_INTERVALS_ENDPOINT, new TypeReference<>() {});
+
+			assertThat(response.getMax())
+					.extracting(DimensionIntervalDto::getName, DimensionIntervalDto::getInterval,
+							DimensionIntervalDto::getPreviousWin, DimensionIntervalDto::getFollowingWin)
+					.containsExactly(tuple("Paramount Pictures", 15, 1993, 2008));
+		}
+	}
+
+	@Nested
+	@DisplayName("Multi-Dimension Tests")
+	class MultiDimensionTests {
+
+		@Test
+		@DisplayName("Should return every registered dimension when none is requested")
+		void shouldReturnAllDimensionsByDefault() throws Exception {
+			Map<String, DimensionIntervalResponseDto> response = readResponse(INTERVALS_ENDPOINT, new TypeReference<>() {});
+
+			assertThat(response).containsOnlyKeys("producers", "studios");
+		}
+
+		@Test
+		@DisplayName("Should return only the requested dimensions")
+		void shouldReturnRequestedDimensions() throws Exception {
+			Map<String, DimensionIntervalResponseDto> response =
+					readResponse(INTERVALS_ENDPOINT + "?dimensions=studios", new TypeReference<>() {});
+
+			assertThat(response).containsOnlyKeys("studios");
+		}
+
+		@Test
+		@DisplayName("Should ignore whitespace and empty entries in the requested dimensions")
+		void shouldTrimRequestedDimensions() throws Exception {
+			Map<String, DimensionIntervalResponseDto> response =
+					readResponse(INTERVALS_ENDPOINT + "?dimensions=producers, studios,,", new TypeReference<>() {});
+
+			assertThat(response).containsOnlyKeys("producers", "studios");
+		}
+
+		@Test
+		@DisplayName("Producer dimension should match the producers endpoint")
+		void producerDimensionShouldMatchProducersEndpoint() throws Exception {
+			Map<String, DimensionIntervalResponseDto> generic =
+					readResponse(INTERVALS_ENDPOINT + "?dimensions=producers,studios", new TypeReference<>() {});
+			IntervalResponseDto producers = readResponse("/api/producers/intervals", new TypeReference<>() {});
+
+			assertThat(generic.get("producers").getMin())
+					.extracting(DimensionIntervalDto::getName)
+					.containsExactlyElementsOf(producerNames(producers.getMin()));
+			assertThat(generic.get("producers").getMax())
+					.extracting(DimensionIntervalDto::getName)
+					.containsExactlyElementsOf(producerNames(producers.getMax()));
+		}
+
+		@Test
+		@DisplayName("Should return 404 for an unknown dimension")
+		void shouldReturnNotFoundForUnknownDimension() throws Exception {
+			mockMvc.perform(get("/api/directors/intervals"))
+					.andExpect(status().isNotFound())
+					.andExpect(jsonPath("$.dimension").value("directors"));
+
+			mockMvc.perform(get(INTERVALS_ENDPOINT + "?dimensions=producers,directors"))
+					.andExpect(status().isNotFound());
+		}
+	}
+
+	private <T> T readResponse(String endpoint, TypeReference<T> type) throws Exception {
+		MvcResult result = mockMvc.perform(get(endpoint))
+				.andExpect(status().isOk())
+				.andReturn();
+
+		return objectMapper.readValue(result.getResponse().getContentAsString(), type);
+	}
+
+	private List<String> producerNames(List<ProducerIntervalDto> intervals) {
+		return intervals.stream()
+				.map(ProducerIntervalDto::getProducer)
+				.toList();
+	}
+}
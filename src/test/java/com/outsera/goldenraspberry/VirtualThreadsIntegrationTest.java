@@ -0,0 +1,96 @@
+package com.outsera.goldenraspberry;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = GoldenraspberryApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.datasource.url=jdbc:h2:mem:virtualthreadsdb")
+@Import(VirtualThreadsIntegrationTest.QueryThreadConfiguration.class)
+@ActiveProfiles({"test", "virtual-threads"})
+@DisplayName("Virtual Threads Integration Tests")
+class VirtualThreadsIntegrationTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private QueryThreadRecorder queryThreadRecorder;
+
+	@BeforeEach
+	void setUp() {
+		queryThreadRecorder.clear();
+	}
+
+	@Test
+	@DisplayName("Repository queries behind /api/movies/years should run on virtual threads")
+	void yearsQueryShouldRunOnVirtualThread() {
+		assertQueriesRunOnVirtualThreads("/api/movies/years");
+	}
+
+	@Test
+	@DisplayName("Repository queries behind /api/producers/intervals should run on virtual threads")
+	void intervalsQueryShouldRunOnVirtualThread() {
+		assertQueriesRunOnVirtualThreads("/api/producers/intervals");
+	}
+
+	private void assertQueriesRunOnVirtualThreads(String endpoint) {
+		ResponseEntity<String> response = restTemplate.getForEntity(endpoint, String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(queryThreadRecorder.getVirtualFlags())
+				.as("SQL executed for %s should run on a virtual thread", endpoint)
+				.isNotEmpty()
+				.containsOnly(true);
+	}
+
+	@TestConfiguration
+	static class QueryThreadConfiguration {
+
+		@Bean
+		QueryThreadRecorder queryThreadRecorder() {
+			return new QueryThreadRecorder();
+		}
+
+		@Bean
+		HibernatePropertiesCustomizer queryThreadInspector(QueryThreadRecorder recorder) {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, recorder);
+		}
+	}
+
+	static class QueryThreadRecorder implements StatementInspector {
+
+		private final List<Boolean> virtualFlags = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			virtualFlags.add(Thread.currentThread().isVirtual());
+			return sql;
+		}
+
+		List<Boolean> getVirtualFlags() {
+			return virtualFlags;
+		}
+
+		void clear() {
+			virtualFlags.clear();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.outsera.goldenraspberry.repository;
+
+import com.outsera.goldenraspberry.GoldenraspberryApplication;
+import com.outsera.goldenraspberry.entity.MovieEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = GoldenraspberryApplication.class,
+		properties = "spring.datasource.url=jdbc:h2:mem:l2cachedb")
+@ActiveProfiles({"test", "l2-cache"})
+@DisplayName("Movie Repository Cache Integration Tests")
+class MovieRepositoryCacheIntegrationTest {
+
+	private static final int TEST_YEAR = 2099;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("Repeated winner queries should be served from the query cache")
+	void repeatedWinnerQueriesShouldHitQueryCache() {
+		List<MovieEntity> first = movieRepository.findWinners();
+		List<MovieEntity> second = movieRepository.findWinners();
+
+		assertThat(second).hasSameSizeAs(first);
+		assertThat(statistics.getQueryCacheHitCount())
+				.as("Second call should hit the query cache")
+				.isPositive();
+	}
+
+	@Test
+	@DisplayName("Repeated lookups by id should be served from the entity cache")
+	void repeatedLookupsByIdShouldHitEntityCache() {
+		Long id = movieRepository.findWinners().get(0).getId();
+
+		movieRepository.findById(id);
+		movieRepository.findById(id);
+
+		assertThat(statistics.getSecondLevelCacheHitCount())
+				.as("Lookup by id should hit the second-level cache")
+				.isPositive();
+	}
+
+	@Test
+	@DisplayName("Cache regions should expose JCache statistics over JMX")
+	void cacheRegionsShouldExposeStatisticsOverJmx() throws Exception {
+		movieRepository.findWinners();
+
+		ObjectName pattern = new ObjectName("javax.cache:type=CacheStatistics,Cache=movies,*");
+
+		assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(pattern, null))
+				.as("Caffeine should register statistics for the movies region")
+				.isNotEmpty();
+	}
+
+	@Test
+	@DisplayName("Writes should invalidate cached query results")
+	void writesShouldInvalidateCachedQueries() {
+		int winners = movieRepository.findWinners().size();
+		assertThat(movieRepository.findByYear(TEST_YEAR)).isEmpty();
+		assertThat(movieRepository.findDistinctYears()).doesNotContain(TEST_YEAR);
+
+		MovieEntity saved = movieRepository.save(
+				new MovieEntity(null, TEST_YEAR, "Cache Test", "Cache Studio", "Cache Producer", "yes"));
+		try {
+			assertThat(movieRepository.findWinners()).hasSize(winners + 1);
+			assertThat(movieRepository.findByYear(TEST_YEAR))
+					.extracting(MovieEntity::getTitle)
+					.containsExactly("Cache Test");
+			assertThat(movieRepository.findDistinctYears()).contains(TEST_YEAR);
+		} finally {
+			movieRepository.delete(saved);
+		}
+
+		assertThat(movieRepository.findWinners()).hasSize(winners);
+	}
+}
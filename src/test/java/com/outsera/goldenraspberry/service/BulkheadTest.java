@@ -0,0 +1,108 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.BlockingCaller;
+import com.outsera.goldenraspberry.dto.BulkheadStatsDto;
+import com.outsera.goldenraspberry.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+	private final BlockingCaller blocker = new BlockingCaller();
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		blocker.close();
+	}
+
+	@Test
+	@DisplayName("Should run the action and count it as accepted")
+	void shouldRunActionWhenPermitAvailable() {
+		Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ZERO);
+
+		assertThat(bulkhead.execute(() -> 42)).isEqualTo(42);
+
+		BulkheadStatsDto stats = bulkhead.getStats();
+		assertThat(stats.getAccepted()).isEqualTo(1);
+		assertThat(stats.getInFlight()).isZero();
+		assertThat(stats.getAverageQueueMillis())
+				.as("Immediate admissions count as zero queue time")
+				.isZero();
+	}
+
+	@Test
+	@DisplayName("Should reject with 429 when the queue is full")
+	void shouldRejectWithTooManyRequestsWhenQueueFull() throws Exception {
+		Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ofSeconds(5));
+		occupy(bulkhead);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> 1))
+				.isInstanceOf(AdmissionRejectedException.class)
+				.extracting("status")
+				.isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+		assertThat(bulkhead.getStats().getRejectedQueueFull()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should reject with 503 when the queue wait times out")
+	void shouldRejectWithServiceUnavailableOnTimeout() throws Exception {
+		Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofMillis(50));
+		occupy(bulkhead);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> 1))
+				.isInstanceOf(AdmissionRejectedException.class)
+				.extracting("status")
+				.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+		BulkheadStatsDto stats = bulkhead.getStats();
+		assertThat(stats.getRejectedTimeout()).isEqualTo(1);
+		assertThat(stats.getQueued()).isZero();
+		assertThat(stats.getMaxQueueMillis())
+				.as("Rejected waits should not count as queue time")
+				.isZero();
+		assertThat(stats.getAverageQueueMillis()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should record queue time for callers admitted after waiting")
+	void shouldRecordQueueTimeWhenAdmittedAfterWaiting() throws Exception {
+		Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(5));
+		occupy(bulkhead);
+		blocker.releaseAfter(100, TimeUnit.MILLISECONDS);
+
+		assertThat(bulkhead.execute(() -> 1)).isEqualTo(1);
+
+		BulkheadStatsDto stats = bulkhead.getStats();
+		assertThat(stats.getAccepted()).isEqualTo(2);
+		assertThat(stats.getMaxQueueMillis()).isGreaterThanOrEqualTo(50);
+		assertThat(stats.getAverageQueueMillis())
+				.as("Average spans both admissions, the immediate one counting as zero")
+				.isLessThan(stats.getMaxQueueMillis());
+	}
+
+	@Test
+	@DisplayName("Should release the permit when the action throws")
+	void shouldReleasePermitWhenActionThrows() {
+		Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ZERO);
+
+		assertThatThrownBy(() -> bulkhead.execute(() -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(bulkhead.execute(() -> 1)).isEqualTo(1);
+	}
+
+	private void occupy(Bulkhead bulkhead) throws InterruptedException {
+		blocker.occupy(bulkhead::execute);
+	}
+}
@@ -0,0 +1,96 @@
+package com.outsera.goldenraspberry.service;
+
+import com.outsera.goldenraspberry.dto.DimensionIntervalDto;
+import com.outsera.goldenraspberry.dto.DimensionIntervalResponseDto;
+import com.outsera.goldenraspberry.entity.MovieEntity;
+import com.outsera.goldenraspberry.exception.UnknownDimensionException;
+import com.outsera.goldenraspberry.repository.MovieRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Interval Engine Service Tests")
+class IntervalEngineServiceTest {
+
+	private final MovieRepository movieRepository = mock(MovieRepository.class);
+
+	private final IntervalEngineService engine = new IntervalEngineService(movieRepository, List.of(
+			new DelimitedDimensionExtractor("producers", MovieEntity::getProducers),
+			new DelimitedDimensionExtractor("studios", MovieEntity::getStudios)));
+
+	@Test
+	@DisplayName("Should compute gaps from sorted years when winners arrive out of order")
+	void shouldComputeGapsWhenWinnersArriveOutOfOrder() {
+		when(movieRepository.findWinners()).thenReturn(List.of(
+				winner(1990, "Studio A", "Alice"),
+				winner(2000, "Studio A", "Alice"),
+				winner(1995, "Studio A", "Alice"),
+				winner(2010, "Studio B", "Bob"),
+				winner(1980, "Studio B", "Bob")));
+
+		DimensionIntervalResponseDto response = engine.getIntervals("producers");
+
+		assertThat(response.getMin())
+				.extracting(DimensionIntervalDto::getName, DimensionIntervalDto::getInterval,
+						DimensionIntervalDto::getPreviousWin, DimensionIntervalDto::getFollowingWin)
+				.containsExactly(
+						tuple("Alice", 5, 1990, 1995),
+						tuple("Alice", 5, 1995, 2000));
+		assertThat(response.getMax())
+				.extracting(DimensionIntervalDto::getName, DimensionIntervalDto::getInterval,
+						DimensionIntervalDto::getPreviousWin, DimensionIntervalDto::getFollowingWin)
+				.containsExactly(tuple("Bob", 30, 1980, 2010));
+	}
+
+	@Test
+	@DisplayName("Should compute every requested dimension from a single scan")
+	void shouldComputeAllDimensionsFromSingleScan() {
+		when(movieRepository.findWinners()).thenReturn(List.of(
+				winner(2001, "Studio A, Studio B", "Alice and Bob"),
+				winner(2003, "Studio A", "Alice"),
+				winner(2009, "Studio B", "Bob")));
+
+		Map<String, DimensionIntervalResponseDto> response = engine.getIntervals(List.of("producers", "studios"));
+
+		assertThat(response).containsOnlyKeys("producers", "studios");
+		assertThat(response.get("studios").getMin())
+				.extracting(DimensionIntervalDto::getName, DimensionIntervalDto::getInterval)
+				.containsExactly(tuple("Studio A", 2));
+		assertThat(response.get("producers").getMax())
+				.extracting(DimensionIntervalDto::getName, DimensionIntervalDto::getInterval)
+				.containsExactly(tuple("Bob", 8));
+		verify(movieRepository, times(1)).findWinners();
+	}
+
+	@Test
+	@DisplayName("Should return empty intervals when no key has two wins")
+	void shouldReturnEmptyIntervalsWithoutRepeatWinners() {
+		when(movieRepository.findWinners()).thenReturn(List.of(winner(1990, "Studio A", "Alice")));
+
+		DimensionIntervalResponseDto response = engine.getIntervals("producers");
+
+		assertThat(response.getMin()).isEmpty();
+		assertThat(response.getMax()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Should reject unknown dimensions")
+	void shouldRejectUnknownDimensions() {
+		assertThatThrownBy(() -> engine.getIntervals("directors"))
+				.isInstanceOf(UnknownDimensionException.class);
+	}
+
+	private MovieEntity winner(int year, String studios, String producers) {
+		return new MovieEntity(null, year, "Movie " + year, studios, producers, "yes");
+	}
+}